@@ -15,8 +15,12 @@ import org.mtransit.parser.gtfs.data.GRoute;
 import org.mtransit.parser.gtfs.data.GStop;
 import org.mtransit.parser.mt.data.MAgency;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -116,9 +120,16 @@ public class StCatharinesTransitBusAgencyTools extends DefaultAgencyTools {
 		return true;
 	}
 
+	private final Map<String, String> cleanedRouteLongNames = new ConcurrentHashMap<>();
+
 	@NotNull
 	@Override
 	public String cleanRouteLongName(@NotNull String routeLongName) {
+		return cleanedRouteLongNames.computeIfAbsent(routeLongName, this::cleanRouteLongNameNoCache);
+	}
+
+	@NotNull
+	private String cleanRouteLongNameNoCache(@NotNull String routeLongName) {
 		routeLongName = CleanUtils.cleanStreetTypes(routeLongName);
 		return CleanUtils.cleanLabel(routeLongName);
 	}
@@ -234,9 +245,16 @@ public class StCatharinesTransitBusAgencyTools extends DefaultAgencyTools {
 	private static final Pattern CENTER_ = CleanUtils.cleanWords("cent[r]?");
 	private static final String CENTER_REPLACEMENT = CleanUtils.cleanWordsReplacement("Center");
 
+	private final Map<String, String> cleanedTripHeadsigns = new ConcurrentHashMap<>();
+
 	@NotNull
 	@Override
 	public String cleanTripHeadsign(@NotNull String tripHeadsign) {
+		return cleanedTripHeadsigns.computeIfAbsent(tripHeadsign, this::cleanTripHeadsignNoCache);
+	}
+
+	@NotNull
+	private String cleanTripHeadsignNoCache(@NotNull String tripHeadsign) {
 		tripHeadsign = CleanUtils.toLowerCaseUpperCaseWords(getFirstLanguageNN(), tripHeadsign, getIgnoredWords());
 		tripHeadsign = STARTS_WITH_RSN_RLN.matcher(tripHeadsign).replaceAll(EMPTY);
 		tripHeadsign = STARTS_WITH_RLN_DASH.matcher(tripHeadsign).replaceAll(EMPTY);
@@ -259,15 +277,24 @@ public class StCatharinesTransitBusAgencyTools extends DefaultAgencyTools {
 
 	private static final Pattern ENDS_WITH = Pattern.compile("(([&/\\-])\\W*$)", Pattern.CASE_INSENSITIVE);
 
+	private static final String[] IGNORED_WORDS = new String[]{
+			"DSBN", "GO", "NHS", "TRW", "YMCA",
+	};
+
 	private String[] getIgnoredWords() {
-		return new String[]{
-				"DSBN", "GO", "NHS", "TRW", "YMCA",
-		};
+		return IGNORED_WORDS;
 	}
 
+	private final Map<String, String> cleanedStopNames = new ConcurrentHashMap<>();
+
 	@NotNull
 	@Override
 	public String cleanStopName(@NotNull String gStopName) {
+		return cleanedStopNames.computeIfAbsent(gStopName, this::cleanStopNameNoCache);
+	}
+
+	@NotNull
+	private String cleanStopNameNoCache(@NotNull String gStopName) {
 		gStopName = CleanUtils.toLowerCaseUpperCaseWords(getFirstLanguageNN(), gStopName, getIgnoredWords());
 		gStopName = AND_NOT.matcher(gStopName).replaceAll(AND_NOT_REPLACEMENT); // fix Alex&ra
 		gStopName = CleanUtils.CLEAN_AND.matcher(gStopName).replaceAll(CleanUtils.CLEAN_AND_REPLACEMENT);
@@ -420,6 +447,72 @@ public class StCatharinesTransitBusAgencyTools extends DefaultAgencyTools {
 	private static final String QUP = "QUP";
 	private static final String WSM = "WSM";
 
+	private static final Map<String, Integer> STOP_CODE_STOP_IDS;
+
+	static {
+		final HashMap<String, Integer> map = new HashMap<>();
+		map.put(DTT, 100000);
+		map.put(NFT, 100001);
+		map.put(PEN2, 100002);
+		map.put(SWM, 100003);
+		map.put(WEL, 100004);
+		map.put(BAS, 100005);
+		map.put(BRU, 100006);
+		map.put(DAS, 174);
+		map.put(DAS + "0174", 174);
+		map.put(FVM, 100008);
+		map.put(GLW, 100009);
+		map.put(LIG, 100010);
+		map.put(QUP, 100011);
+		map.put(WSM, 100012);
+		map.put(MIW, 100013);
+		map.put("BIS", 100014);
+		map.put("BRR", 100015);
+		map.put("CER", 100016);
+		map.put("VIL", 100017);
+		map.put("STK", 100018);
+		map.put("MCS", 100019);
+		map.put("GDC", 100020);
+		map.put("WLC", 100021);
+		map.put("WAL", 100022);
+		map.put("RIC", 100023);
+		map.put("HOS", 100024);
+		map.put("LKO", 100025);
+		map.put("LKV", 100026);
+		map.put("GBH", 100027);
+		map.put("LLI", 100028);
+		map.put("LKN", 100029);
+		map.put("GLI", 100030);
+		map.put("SIR", 100031);
+		map.put("OSD", 100032);
+		map.put("DCA", 724);
+		map.put("DCA0724", 724);
+		map.put("TLQ", 100034);
+		map.put("CTO", 100035);
+		map.put("MCL", 767);
+		map.put("MCL0767", 767);
+		map.put("LKL", 100037);
+		map.put("LKG", 100038);
+		map.put("PGL", 100039);
+		map.put("CRL", 100040);
+		map.put("WIA", 421);
+		map.put("WIA0421", 421);
+		map.put("CVI", 100042);
+		map.put("KAB", 100043);
+		map.put("OUT", 100_044);
+		map.put("ERM", 100_045);
+		map.put("WEN", 100_046);
+		map.put("WEC", 100_047);
+		map.put("PAP", 100_048);
+		map.put("SIP", 1372);
+		map.put("SIP1372", 1372);
+		map.put("CKE", 1072);
+		map.put("CKE1072", 1072);
+		map.put("GOT", 1399);
+		map.put("GOT1399", 1399);
+		STOP_CODE_STOP_IDS = Collections.unmodifiableMap(map);
+	}
+
 	@Override
 	public int getStopId(@NotNull GStop gStop) {
 		//noinspection deprecation
@@ -438,111 +531,9 @@ public class StCatharinesTransitBusAgencyTools extends DefaultAgencyTools {
 		if (CharUtils.isDigitsOnly(stopCode)) {
 			return Integer.parseInt(stopCode); // using stop code as stop ID
 		}
-		//noinspection IfCanBeSwitch // TO DO?
-		if (stopCode.equals(DTT)) {
-			return 100000;
-		} else if (stopCode.equals(NFT)) {
-			return 100001;
-		} else if (stopCode.equals(PEN2)) {
-			return 100002;
-		} else if (stopCode.equals(SWM)) {
-			return 100003;
-		} else if (stopCode.equals(WEL)) {
-			return 100004;
-		} else if (stopCode.equals(BAS)) {
-			return 100005;
-		} else if (stopCode.equals(BRU)) {
-			return 100006;
-		} else if (stopCode.equals(DAS) || stopCode.equals(DAS + "0174")) {
-			return 174;
-		} else if (stopCode.equals(FVM)) {
-			return 100008;
-		} else if (stopCode.equals(GLW)) {
-			return 100009;
-		} else if (stopCode.equals(LIG)) {
-			return 100010;
-		} else if (stopCode.equals(QUP)) {
-			return 100011;
-		} else if (stopCode.equals(WSM)) {
-			return 100012;
-		} else if (stopCode.equals(MIW)) {
-			return 100013;
-		} else if (stopCode.equals("BIS")) {
-			return 100014;
-		} else if (stopCode.equals("BRR")) {
-			return 100015;
-		} else if (stopCode.equals("CER")) {
-			return 100016;
-		} else if (stopCode.equals("VIL")) {
-			return 100017;
-		} else if (stopCode.equals("STK")) {
-			return 100018;
-		} else if (stopCode.equals("MCS")) {
-			return 100019;
-		} else if (stopCode.equals("GDC")) {
-			return 100020;
-		} else if (stopCode.equals("WLC")) {
-			return 100021;
-		} else if (stopCode.equals("WAL")) {
-			return 100022;
-		} else if (stopCode.equals("RIC")) {
-			return 100023;
-		} else if (stopCode.equals("HOS")) {
-			return 100024;
-		} else if (stopCode.equals("LKO")) {
-			return 100025;
-		} else if (stopCode.equals("LKV")) {
-			return 100026;
-		} else if (stopCode.equals("GBH")) {
-			return 100027;
-		} else if (stopCode.equals("LLI")) {
-			return 100028;
-		} else if (stopCode.equals("LKN")) {
-			return 100029;
-		} else if (stopCode.equals("GLI")) {
-			return 100030;
-		} else if (stopCode.equals("SIR")) {
-			return 100031;
-		} else if (stopCode.equals("OSD")) {
-			return 100032;
-		} else if (stopCode.equals("DCA") || stopCode.equals("DCA0724")) {
-			return 724;
-		} else if (stopCode.equals("TLQ")) {
-			return 100034;
-		} else if (stopCode.equals("CTO")) {
-			return 100035;
-		} else if (stopCode.equals("MCL") || stopCode.equals("MCL0767")) {
-			return 767;
-		} else if (stopCode.equals("LKL")) {
-			return 100037;
-		} else if (stopCode.equals("LKG")) {
-			return 100038;
-		} else if (stopCode.equals("PGL")) {
-			return 100039;
-		} else if (stopCode.equals("CRL")) {
-			return 100040;
-		} else if (stopCode.equals("WIA") || stopCode.equals("WIA0421")) {
-			return 421;
-		} else if (stopCode.equals("CVI")) {
-			return 100042;
-		} else if (stopCode.equals("KAB")) {
-			return 100043;
-		} else if (stopCode.equals("OUT")) {
-			return 100_044;
-		} else if (stopCode.equals("ERM")) {
-			return 100_045;
-		} else if (stopCode.equals("WEN")) {
-			return 100_046;
-		} else if (stopCode.equals("WEC")) {
-			return 100_047;
-		} else if (stopCode.equals("PAP")) {
-			return 100_048;
-		} else if (stopCode.equals("SIP") || stopCode.equals("SIP1372")) {
-			return 1372;
-		} else if (stopCode.equals("CKE") || stopCode.equals("CKE1072")) {
-			return 1072;
-		} else if (stopCode.equals("GOT") || stopCode.equals("GOT1399")) {
-			return 1399;
+		final Integer codeStopId = STOP_CODE_STOP_IDS.get(stopCode);
+		if (codeStopId != null) {
+			return codeStopId;
 		}
 		try {
 			final Matcher matcher = DIGITS.matcher(stopCode);